@@ -120,6 +120,10 @@ start_app() {
 
 # Docker deployment
 deploy_docker() {
+    print_status "Building application jar..."
+    ./gradlew bootJar
+    print_success "Application jar built successfully"
+
     print_status "Building Docker image..."
     docker build -t quiz-platform .
     print_success "Docker image built successfully"
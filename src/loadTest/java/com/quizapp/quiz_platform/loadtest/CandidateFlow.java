@@ -0,0 +1,121 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * One virtual candidate: login, take a quiz, submit answers, view results.
+ * Each worker thread owns one instance; cookies are cleared between flows so every flow logs in afresh.
+ */
+class CandidateFlow {
+
+    static final String LOGIN = "login";
+    static final String TAKE_QUIZ = "takeQuiz";
+    static final String SUBMIT_QUIZ = "submitQuiz";
+    static final String VIEW_RESULTS = "viewResults";
+    static final List<String> ENDPOINTS = List.of(LOGIN, TAKE_QUIZ, SUBMIT_QUIZ, VIEW_RESULTS);
+
+    private static final String[] OPTIONS = {"A", "B", "C", "D"};
+
+    private final String baseUrl;
+    private final LoadTestSeeder.SeededData data;
+    private final Map<String, EndpointStats> stats;
+    private final CookieManager cookies = new CookieManager();
+    private final HttpClient client;
+
+    CandidateFlow(String baseUrl, LoadTestSeeder.SeededData data, Map<String, EndpointStats> stats) {
+        this.baseUrl = baseUrl;
+        this.data = data;
+        this.stats = stats;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .cookieHandler(cookies)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    /**
+     * Runs one flow, recording into the stats map when {@code record} is set.
+     *
+     * @return true if every step succeeded
+     */
+    boolean run(boolean record) throws InterruptedException {
+        cookies.getCookieStore().removeAll();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String candidate = data.candidates().get(random.nextInt(data.candidates().size()));
+        LoadTestSeeder.SeededQuiz quiz = data.quizzes().get(random.nextInt(data.quizzes().size()));
+
+        Map<String, String> credentials = new LinkedHashMap<>();
+        credentials.put("username", candidate);
+        credentials.put("password", LoadTestSeeder.PASSWORD);
+        // A successful form login redirects to the dashboard; failures redirect back to /login?error
+        if (!send(LOGIN, post("/login", credentials), 302, "/dashboard", record)) {
+            return false;
+        }
+
+        if (!send(TAKE_QUIZ, get("/candidate/quizzes/" + quiz.id() + "/take"), 200, null, record)) {
+            return false;
+        }
+
+        Map<String, String> answers = new LinkedHashMap<>();
+        for (Long questionId : quiz.questionIds()) {
+            answers.put("question_" + questionId, OPTIONS[random.nextInt(OPTIONS.length)]);
+        }
+        if (!send(SUBMIT_QUIZ, post("/candidate/quizzes/" + quiz.id() + "/submit", answers), 200, null, record)) {
+            return false;
+        }
+
+        return send(VIEW_RESULTS, get("/candidate/results"), 200, null, record);
+    }
+
+    private boolean send(String endpoint, HttpRequest.Builder builder, int expectedStatus,
+                         String expectedLocation, boolean record) throws InterruptedException {
+        HttpRequest request = builder
+                .header(StatementCountingFilter.ENDPOINT_HEADER, record ? endpoint : "warmup")
+                .timeout(Duration.ofSeconds(30))
+                .build();
+        long start = System.nanoTime();
+        boolean success;
+        try {
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            success = response.statusCode() == expectedStatus
+                    && (expectedLocation == null || response.headers().firstValue("Location")
+                            .map(location -> location.endsWith(expectedLocation))
+                            .orElse(false));
+        } catch (IOException e) {
+            success = false;
+        }
+        long latency = System.nanoTime() - start;
+        if (record) {
+            stats.get(endpoint).record(latency, success);
+        }
+        return success;
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).GET();
+    }
+
+    private HttpRequest.Builder post(String path, Map<String, String> form) {
+        String body = form.entrySet().stream()
+                .map(e -> URLEncoder.encode(e.getKey(), StandardCharsets.UTF_8)
+                        + "=" + URLEncoder.encode(e.getValue(), StandardCharsets.UTF_8))
+                .collect(Collectors.joining("&"));
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+}
@@ -0,0 +1,15 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Registered with Hibernate by {@link LoadTestRunner}; counts every statement for the current request.
+ */
+public class CountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        StatementCountingFilter.recordStatement();
+        return sql;
+    }
+}
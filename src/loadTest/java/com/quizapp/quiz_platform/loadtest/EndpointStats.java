@@ -0,0 +1,59 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latencies and errors recorded client-side for one endpoint.
+ */
+class EndpointStats {
+
+    private final String endpoint;
+    private final AtomicLong errors = new AtomicLong();
+    private long[] latenciesNanos = new long[1024];
+    private int count;
+
+    EndpointStats(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (count == latenciesNanos.length) {
+            latenciesNanos = Arrays.copyOf(latenciesNanos, count * 2);
+        }
+        latenciesNanos[count++] = latencyNanos;
+        if (!success) {
+            errors.incrementAndGet();
+        }
+    }
+
+    synchronized LoadTestReport.EndpointResult result(double durationSeconds, long dbStatements) {
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        double mean = count == 0 ? 0 : Arrays.stream(sorted).average().orElse(0) / 1_000_000.0;
+        return new LoadTestReport.EndpointResult(
+                endpoint,
+                count,
+                errors.get(),
+                durationSeconds > 0 ? count / durationSeconds : 0,
+                mean,
+                percentileMillis(sorted, 50),
+                percentileMillis(sorted, 99),
+                count == 0 ? 0 : sorted[count - 1] / 1_000_000.0,
+                dbStatements,
+                count == 0 ? 0 : (double) dbStatements / count);
+    }
+
+    // Nearest-rank percentile
+    private static double percentileMillis(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1_000_000.0;
+    }
+}
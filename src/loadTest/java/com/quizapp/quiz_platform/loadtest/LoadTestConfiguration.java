@@ -0,0 +1,24 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+@Configuration
+public class LoadTestConfiguration {
+
+    @Bean
+    public StatementCountingFilter statementCountingFilter() {
+        return new StatementCountingFilter();
+    }
+
+    // Runs ahead of Spring Security so the user lookup during login is counted too
+    @Bean
+    public FilterRegistrationBean<StatementCountingFilter> statementCountingFilterRegistration(
+            StatementCountingFilter filter) {
+        FilterRegistrationBean<StatementCountingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,28 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Machine-readable result of a load test run, written as JSON.
+ */
+record LoadTestReport(Instant startedAt,
+                      LoadTestSettings settings,
+                      double durationSeconds,
+                      long flows,
+                      long failedFlows,
+                      double flowsPerSecond,
+                      List<EndpointResult> endpoints) {
+
+    record EndpointResult(String endpoint,
+                          long requests,
+                          long errors,
+                          double throughputPerSecond,
+                          double meanMs,
+                          double p50Ms,
+                          double p99Ms,
+                          double maxMs,
+                          long dbStatements,
+                          double dbStatementsPerRequest) {
+    }
+}
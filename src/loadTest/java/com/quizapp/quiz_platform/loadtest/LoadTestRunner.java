@@ -0,0 +1,158 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.quizapp.quiz_platform.QuizPlatformApplication;
+import com.quizapp.quiz_platform.repository.QuestionRepository;
+import com.quizapp.quiz_platform.repository.QuizRepository;
+import com.quizapp.quiz_platform.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Boots the application, seeds it at scale and replays a burst of candidate assessments:
+ * login, takeQuiz, submitQuiz, viewResults. Writes a JSON report with throughput, latency
+ * percentiles and database statement counts per endpoint.
+ *
+ * <p>Runs against an in-memory H2 database by default. Point it at Postgres with
+ * {@code -Pspring.datasource.url=jdbc:postgresql://...} plus username, password and dialect.
+ */
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(
+                QuizPlatformApplication.class, LoadTestConfiguration.class)
+                .run(applicationArgs(settings))) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+            log("Seeding %d recruiters x %d quizzes x %d questions, %d candidates",
+                    settings.recruiters(), settings.quizzesPerRecruiter(),
+                    settings.questionsPerQuiz(), settings.candidates());
+            LoadTestSeeder.SeededData data = new LoadTestSeeder(
+                    context.getBean(UserRepository.class),
+                    context.getBean(QuizRepository.class),
+                    context.getBean(QuestionRepository.class),
+                    context.getBean(PasswordEncoder.class)).seed(settings);
+
+            Map<String, EndpointStats> stats = new LinkedHashMap<>();
+            CandidateFlow.ENDPOINTS.forEach(endpoint -> stats.put(endpoint, new EndpointStats(endpoint)));
+            StatementCountingFilter statementCounter = context.getBean(StatementCountingFilter.class);
+
+            ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+            try {
+                List<CandidateFlow> flows = new ArrayList<>();
+                for (int i = 0; i < settings.concurrency(); i++) {
+                    flows.add(new CandidateFlow(baseUrl, data, stats));
+                }
+
+                log("Warming up with %d flows", settings.warmupFlows());
+                runFlows(workers, flows, settings.warmupFlows(), false);
+                statementCounter.reset();
+
+                log("Running %d flows with concurrency %d", settings.flows(), settings.concurrency());
+                Instant startedAt = Instant.now();
+                long start = System.nanoTime();
+                long failed = runFlows(workers, flows, settings.flows(), true);
+                double durationSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+                Map<String, Long> statements = statementCounter.snapshot();
+                List<LoadTestReport.EndpointResult> endpoints = stats.values().stream()
+                        .map(s -> s.result(durationSeconds, statements.getOrDefault(s.endpoint(), 0L)))
+                        .toList();
+                LoadTestReport report = new LoadTestReport(startedAt, settings, durationSeconds,
+                        settings.flows(), failed, settings.flows() / durationSeconds, endpoints);
+                writeReport(settings.reportDir(), report);
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    // Command-line arguments win over application.properties; explicit -D settings still win over these
+    private static String[] applicationArgs(LoadTestSettings settings) {
+        Map<String, String> defaults = new LinkedHashMap<>();
+        defaults.put("server.port", "0");
+        defaults.put("spring.datasource.url", "jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1");
+        // Every run seeds the same fixed usernames into a fresh schema, even on a persistent database
+        defaults.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        defaults.put("spring.jpa.show-sql", "false");
+        defaults.put("spring.jpa.properties.hibernate.format_sql", "false");
+        defaults.put("spring.jpa.properties.hibernate.session_factory.statement_inspector",
+                CountingStatementInspector.class.getName());
+        defaults.put("logging.level.root", "WARN");
+        defaults.put("logging.level.org.springframework.security", "WARN");
+        defaults.put("logging.level.org.hibernate.SQL", "WARN");
+        defaults.put("logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN");
+        defaults.put("quiz.seed.enabled", "false");
+        defaults.put("quiz.search.index-file",
+                settings.reportDir().resolve("search-index.dat").toAbsolutePath().toString());
+        defaults.put("server.tomcat.threads.max", String.valueOf(Math.max(200, settings.concurrency())));
+
+        List<String> args = new ArrayList<>();
+        defaults.forEach((key, value) -> {
+            if (System.getProperty(key) == null) {
+                args.add("--" + key + "=" + value);
+            }
+        });
+        return args.toArray(new String[0]);
+    }
+
+    /**
+     * Runs {@code total} flows spread over the worker pool.
+     *
+     * @return the number of flows that failed
+     */
+    private static long runFlows(ExecutorService workers, List<CandidateFlow> flows,
+                                 int total, boolean record) throws Exception {
+        AtomicLong remaining = new AtomicLong(total);
+        AtomicLong failed = new AtomicLong();
+        List<Future<?>> running = new ArrayList<>();
+        for (CandidateFlow flow : flows) {
+            running.add(workers.submit(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    if (!flow.run(record)) {
+                        failed.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : running) {
+            future.get();
+        }
+        return failed.get();
+    }
+
+    private static void writeReport(Path reportDir, LoadTestReport report) throws Exception {
+        ObjectMapper mapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .build();
+        Files.createDirectories(reportDir);
+        Path file = reportDir.resolve("loadtest-" + report.startedAt().toEpochMilli() + ".json");
+        mapper.writeValue(file.toFile(), report);
+        System.out.println(mapper.writeValueAsString(report));
+        log("Report written to %s", file.toAbsolutePath());
+    }
+
+    private static void log(String format, Object... args) {
+        System.out.println("[loadtest] " + String.format(format, args));
+    }
+}
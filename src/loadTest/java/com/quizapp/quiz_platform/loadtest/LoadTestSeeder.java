@@ -0,0 +1,102 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import com.quizapp.quiz_platform.model.Question;
+import com.quizapp.quiz_platform.model.Quiz;
+import com.quizapp.quiz_platform.model.User;
+import com.quizapp.quiz_platform.repository.QuestionRepository;
+import com.quizapp.quiz_platform.repository.QuizRepository;
+import com.quizapp.quiz_platform.repository.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds recruiters, quizzes, questions and candidates at load-test scale,
+ * following the same shapes as {@code DatabaseSeeder}.
+ */
+class LoadTestSeeder {
+
+    static final String PASSWORD = "password123";
+
+    private static final String[] OPTIONS = {"A", "B", "C", "D"};
+
+    private final UserRepository userRepository;
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+    private final PasswordEncoder passwordEncoder;
+
+    LoadTestSeeder(UserRepository userRepository, QuizRepository quizRepository,
+                   QuestionRepository questionRepository, PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.quizRepository = quizRepository;
+        this.questionRepository = questionRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    record SeededQuiz(Long id, List<Long> questionIds) {
+    }
+
+    record SeededData(List<String> candidates, List<SeededQuiz> quizzes) {
+    }
+
+    SeededData seed(LoadTestSettings settings) {
+        // Every seeded user shares a password, so hash it once
+        String encodedPassword = passwordEncoder.encode(PASSWORD);
+
+        List<User> recruiters = new ArrayList<>();
+        for (int r = 1; r <= settings.recruiters(); r++) {
+            recruiters.add(user("loadtest-recruiter" + r, encodedPassword, "RECRUITER"));
+        }
+        recruiters = userRepository.saveAll(recruiters);
+
+        List<User> candidates = new ArrayList<>();
+        for (int c = 1; c <= settings.candidates(); c++) {
+            candidates.add(user("loadtest-candidate" + c, encodedPassword, "CANDIDATE"));
+        }
+        userRepository.saveAll(candidates);
+
+        List<SeededQuiz> quizzes = new ArrayList<>();
+        for (User recruiter : recruiters) {
+            for (int q = 1; q <= settings.quizzesPerRecruiter(); q++) {
+                Quiz quiz = new Quiz();
+                quiz.setTitle("Load Test Quiz " + q + " by " + recruiter.getUsername());
+                quiz.setDescription("Generated for capacity testing");
+                quiz.setDurationInMinutes(30);
+                quiz.setRecruiter(recruiter);
+                quiz = quizRepository.save(quiz);
+
+                List<Question> questions = new ArrayList<>();
+                for (int n = 1; n <= settings.questionsPerQuiz(); n++) {
+                    questions.add(question(quiz, n));
+                }
+                List<Long> questionIds = questionRepository.saveAll(questions).stream()
+                        .map(Question::getId)
+                        .toList();
+                quizzes.add(new SeededQuiz(quiz.getId(), questionIds));
+            }
+        }
+
+        return new SeededData(candidates.stream().map(User::getUsername).toList(), quizzes);
+    }
+
+    private static User user(String username, String encodedPassword, String role) {
+        User user = new User();
+        user.setUsername(username);
+        user.setPassword(encodedPassword);
+        user.setRole(role);
+        return user;
+    }
+
+    private static Question question(Quiz quiz, int number) {
+        Question question = new Question();
+        question.setQuiz(quiz);
+        question.setQuestionText("Generated question " + number + " for " + quiz.getTitle());
+        question.setOptionA("Option A" + number);
+        question.setOptionB("Option B" + number);
+        question.setOptionC("Option C" + number);
+        question.setOptionD("Option D" + number);
+        question.setCorrectOption(OPTIONS[number % OPTIONS.length]);
+        return question;
+    }
+}
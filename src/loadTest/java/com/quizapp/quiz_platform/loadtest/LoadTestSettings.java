@@ -0,0 +1,34 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ * Load test parameters, read from {@code loadtest.*} system properties
+ * (pass them to Gradle as {@code -Ploadtest.concurrency=100} and so on).
+ */
+public record LoadTestSettings(int recruiters,
+                               int quizzesPerRecruiter,
+                               int questionsPerQuiz,
+                               int candidates,
+                               int concurrency,
+                               int warmupFlows,
+                               int flows,
+                               Path reportDir) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                intProperty("loadtest.recruiters", 10),
+                intProperty("loadtest.quizzesPerRecruiter", 5),
+                intProperty("loadtest.questionsPerQuiz", 20),
+                intProperty("loadtest.candidates", 500),
+                intProperty("loadtest.concurrency", 50),
+                intProperty("loadtest.warmupFlows", 100),
+                intProperty("loadtest.flows", 2000),
+                Path.of(System.getProperty("loadtest.reportDir", "build/reports/loadtest")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
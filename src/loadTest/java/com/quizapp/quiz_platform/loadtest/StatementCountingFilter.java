@@ -0,0 +1,62 @@
+package com.quizapp.quiz_platform.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Attributes SQL statements to the endpoint named in the {@value #ENDPOINT_HEADER} request header.
+ * Statements are counted on the request thread by {@link CountingStatementInspector},
+ * so work handed off to async executors is not included.
+ */
+public class StatementCountingFilter extends OncePerRequestFilter {
+
+    public static final String ENDPOINT_HEADER = "X-Load-Test-Endpoint";
+
+    private static final ThreadLocal<long[]> CURRENT_COUNT = new ThreadLocal<>();
+
+    private final Map<String, LongAdder> statementsByEndpoint = new ConcurrentHashMap<>();
+
+    static void recordStatement() {
+        long[] count = CURRENT_COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String endpoint = request.getHeader(ENDPOINT_HEADER);
+        if (endpoint == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        long[] count = new long[1];
+        CURRENT_COUNT.set(count);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CURRENT_COUNT.remove();
+            statementsByEndpoint.computeIfAbsent(endpoint, k -> new LongAdder()).add(count[0]);
+        }
+    }
+
+    public Map<String, Long> snapshot() {
+        Map<String, Long> counts = new TreeMap<>();
+        statementsByEndpoint.forEach((endpoint, count) -> counts.put(endpoint, count.sum()));
+        return counts;
+    }
+
+    public void reset() {
+        statementsByEndpoint.clear();
+    }
+}
@@ -2,8 +2,10 @@ package com.quizapp.quiz_platform;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableAsync;
 
 @SpringBootApplication
+@EnableAsync
 public class QuizPlatformApplication {
 
 	public static void main(String[] args) {
@@ -8,6 +8,7 @@ import com.quizapp.quiz_platform.repository.QuizRepository;
 import com.quizapp.quiz_platform.repository.QuestionRepository;
 import com.quizapp.quiz_platform.repository.SubmissionRepository;
 import com.quizapp.quiz_platform.repository.UserRepository;
+import com.quizapp.quiz_platform.service.QuizResultsFeed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -28,6 +29,7 @@ public class CandidateQuizController {
     private final QuestionRepository questionRepository;
     private final SubmissionRepository submissionRepository;
     private final UserRepository userRepository;
+    private final QuizResultsFeed quizResultsFeed;
 
     @GetMapping("/quizzes")
     public String listQuizzes(Model model) {
@@ -79,6 +81,7 @@ public class CandidateQuizController {
         submission.setPercentage(score);
         submission.setSubmissionTime(LocalDateTime.now());
         submissionRepository.save(submission);
+        quizResultsFeed.publish(submission);
         
         model.addAttribute("quiz", quiz);
         model.addAttribute("score", score);
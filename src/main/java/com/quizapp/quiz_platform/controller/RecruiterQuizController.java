@@ -8,12 +8,16 @@ import com.quizapp.quiz_platform.repository.QuizRepository;
 import com.quizapp.quiz_platform.repository.QuestionRepository;
 import com.quizapp.quiz_platform.repository.UserRepository;
 import com.quizapp.quiz_platform.repository.SubmissionRepository;
+import com.quizapp.quiz_platform.service.QuizResultsFeed;
+import com.quizapp.quiz_platform.service.QuizSearchService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -26,15 +30,27 @@ public class RecruiterQuizController {
     private final QuestionRepository questionRepository;
     private final UserRepository userRepository;
     private final SubmissionRepository submissionRepository;
+    private final QuizResultsFeed quizResultsFeed;
+    private final QuizSearchService quizSearchService;
+
+    private static final int SEARCH_LIMIT = 20;
 
     @GetMapping("/quizzes")
     public String listQuizzes(@AuthenticationPrincipal UserDetails userDetails, Model model) {
         User recruiter = userRepository.findByUsername(userDetails.getUsername()).orElseThrow();
-        model.addAttribute("quizzes", quizRepository.findAll().stream()
-                .filter(q -> q.getRecruiter().getId().equals(recruiter.getId())).toList());
+        model.addAttribute("quizzes", quizRepository.findByRecruiterId(recruiter.getId()));
         return "recruiter/quizzes";
     }
 
+    @GetMapping("/search")
+    public String search(@RequestParam(name = "q", defaultValue = "") String query, Model model) {
+        QuizSearchService.SearchResults results = quizSearchService.search(query, SEARCH_LIMIT);
+        model.addAttribute("query", query);
+        model.addAttribute("quizzes", results.quizzes());
+        model.addAttribute("questions", results.questions());
+        return "recruiter/search";
+    }
+
     @GetMapping("/quizzes/new")
     public String newQuizForm(Model model) {
         model.addAttribute("quiz", new Quiz());
@@ -46,6 +62,7 @@ public class RecruiterQuizController {
         User recruiter = userRepository.findByUsername(userDetails.getUsername()).orElseThrow();
         quiz.setRecruiter(recruiter);
         quizRepository.save(quiz);
+        quizSearchService.indexQuiz(quiz);
         return "redirect:/recruiter/quizzes";
     }
 
@@ -88,6 +105,7 @@ public class RecruiterQuizController {
         newQuestion.setQuiz(quiz);
         
         questionRepository.save(newQuestion);
+        quizSearchService.indexQuestion(newQuestion);
         return "redirect:/recruiter/quizzes/" + id + "/questions";
     }
 
@@ -129,6 +147,15 @@ public class RecruiterQuizController {
         return "recruiter/quizResults";
     }
 
+    @GetMapping(value = "/quizzes/{id}/results/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ResponseBody
+    public SseEmitter streamQuizResults(@PathVariable Long id) {
+        if (!quizRepository.existsById(id)) {
+            throw new RuntimeException("Quiz not found");
+        }
+        return quizResultsFeed.subscribe(id);
+    }
+
     @GetMapping("/quizzes/{id}/edit")
     public String editQuizForm(@PathVariable Long id, Model model) {
         Quiz quiz = quizRepository.findById(id)
@@ -149,6 +176,7 @@ public class RecruiterQuizController {
         existingQuiz.setDurationInMinutes(quiz.getDurationInMinutes());
         
         quizRepository.save(existingQuiz);
+        quizSearchService.indexQuiz(existingQuiz);
         return "redirect:/recruiter/quizzes";
     }
 }
@@ -1,10 +1,12 @@
 package com.quizapp.quiz_platform.repository;
 
 import com.quizapp.quiz_platform.model.Question;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface QuestionRepository extends JpaRepository<Question, Long> {
     List<Question> findByQuizId(Long quizId);
+    List<Question> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
 }
@@ -3,5 +3,8 @@ package com.quizapp.quiz_platform.repository;
 import com.quizapp.quiz_platform.model.Quiz;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
+    List<Quiz> findByRecruiterId(Long recruiterId);
 }
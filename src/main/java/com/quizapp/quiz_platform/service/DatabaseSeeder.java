@@ -7,7 +7,10 @@ import com.quizapp.quiz_platform.repository.QuestionRepository;
 import com.quizapp.quiz_platform.repository.QuizRepository;
 import com.quizapp.quiz_platform.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.boot.CommandLineRunner;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -16,28 +19,37 @@ import java.util.List;
 
 @Component
 @RequiredArgsConstructor
-public class DatabaseSeeder implements CommandLineRunner {
+public class DatabaseSeeder {
 
     private final UserRepository userRepository;
     private final QuizRepository quizRepository;
     private final QuestionRepository questionRepository;
     private final PasswordEncoder passwordEncoder;
+    private final QuizSearchService quizSearchService;
 
-    @Override
-    public void run(String... args) throws Exception {
+    @Value("${quiz.seed.enabled:true}")
+    private boolean seedEnabled;
+
+    // Runs in the background once the app is ready so seeding stays off the startup path
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
         // Only seed if no users exist
-        if (userRepository.count() == 0) {
+        if (seedEnabled && userRepository.count() == 0) {
             seedDatabase();
         }
     }
 
     private void seedDatabase() {
+        // All sample users share a password, so hash it once
+        String encodedPassword = passwordEncoder.encode("password123");
+
         // Create sample users
-        User recruiter1 = createUser("recruiter1", "password123", "RECRUITER");
-        User recruiter2 = createUser("recruiter2", "password123", "RECRUITER");
-        User candidate1 = createUser("candidate1", "password123", "CANDIDATE");
-        User candidate2 = createUser("candidate2", "password123", "CANDIDATE");
-        User candidate3 = createUser("candidate3", "password123", "CANDIDATE");
+        User recruiter1 = createUser("recruiter1", encodedPassword, "RECRUITER");
+        User recruiter2 = createUser("recruiter2", encodedPassword, "RECRUITER");
+        User candidate1 = createUser("candidate1", encodedPassword, "CANDIDATE");
+        User candidate2 = createUser("candidate2", encodedPassword, "CANDIDATE");
+        User candidate3 = createUser("candidate3", encodedPassword, "CANDIDATE");
 
         // Create sample quizzes
         Quiz javaQuiz = createQuiz("Java Programming Basics", 
@@ -68,10 +80,10 @@ public class DatabaseSeeder implements CommandLineRunner {
         System.out.println("   - Database Design (3 questions)");
     }
 
-    private User createUser(String username, String password, String role) {
+    private User createUser(String username, String encodedPassword, String role) {
         User user = new User();
         user.setUsername(username);
-        user.setPassword(passwordEncoder.encode(password));
+        user.setPassword(encodedPassword);
         user.setRole(role);
         return userRepository.save(user);
     }
@@ -82,7 +94,9 @@ public class DatabaseSeeder implements CommandLineRunner {
         quiz.setDescription(description);
         quiz.setDurationInMinutes(duration);
         quiz.setRecruiter(recruiter);
-        return quizRepository.save(quiz);
+        Quiz saved = quizRepository.save(quiz);
+        quizSearchService.indexQuiz(saved);
+        return saved;
     }
 
     private void createJavaQuestions(Quiz quiz) {
@@ -97,7 +111,7 @@ public class DatabaseSeeder implements CommandLineRunner {
                 "What is the default value of an int variable in Java?", 
                 "0", "null", "undefined", "1", "A")
         );
-        questionRepository.saveAll(questions);
+        questionRepository.saveAll(questions).forEach(quizSearchService::indexQuestion);
     }
 
     private void createSpringQuestions(Quiz quiz) {
@@ -113,7 +127,7 @@ public class DatabaseSeeder implements CommandLineRunner {
                 "What is the default embedded server in Spring Boot?", 
                 "Tomcat", "Jetty", "Undertow", "WildFly", "A")
         );
-        questionRepository.saveAll(questions);
+        questionRepository.saveAll(questions).forEach(quizSearchService::indexQuestion);
     }
 
     private void createDatabaseQuestions(Quiz quiz) {
@@ -132,7 +146,7 @@ public class DatabaseSeeder implements CommandLineRunner {
                 "The process of creating indexes", 
                 "The process of backing up data", "A")
         );
-        questionRepository.saveAll(questions);
+        questionRepository.saveAll(questions).forEach(quizSearchService::indexQuestion);
     }
 
     private Question createQuestion(Quiz quiz, String questionText, String optionA, 
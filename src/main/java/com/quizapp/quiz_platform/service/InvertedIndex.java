@@ -0,0 +1,525 @@
+package com.quizapp.quiz_platform.service;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index from terms to sorted document ids.
+ * Misspelled query terms are matched within one edit using a symmetric-delete
+ * dictionary, so lookups never scan the whole vocabulary.
+ * Queries match documents containing every query term (exactly or fuzzily)
+ * and rank exact matches first, newest documents first.
+ */
+class InvertedIndex {
+
+    private static final int FILE_MAGIC = 0x51495831; // "QIX1"
+    private static final int MIN_FUZZY_LENGTH = 4;
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "in", "is", "it",
+            "of", "on", "or", "the", "this", "to", "what", "which", "with");
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<String, List<String>> deletes = new HashMap<>();
+    // Terms per document, kept only when documents can be re-indexed
+    private final Map<Long, String[]> documentTerms;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    InvertedIndex(boolean trackDocuments) {
+        this.documentTerms = trackDocuments ? new HashMap<>() : null;
+    }
+
+    static List<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return List.of();
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                String token = text.substring(start, i).toLowerCase(Locale.ROOT);
+                if (token.length() > 1 && !STOP_WORDS.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    void add(long id, String text) {
+        List<String> terms = tokenize(text);
+        lock.writeLock().lock();
+        try {
+            removeTerms(id);
+            for (String term : terms) {
+                postingsFor(term).add(id);
+            }
+            if (documentTerms != null) {
+                documentTerms.put(id, terms.toArray(new String[0]));
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeTerms(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    int size() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Match[]> matches = new ArrayList<>();
+            for (String term : terms) {
+                Match[] termMatches = expand(term);
+                if (termMatches.length == 0) {
+                    return List.of();
+                }
+                matches.add(termMatches);
+            }
+            return rank(matches, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the index to {@code file} through a memory-mapped buffer.
+     * The file is written next to the target and moved into place so a crash never leaves a partial index.
+     */
+    void save(Path file, long checkpoint) throws IOException {
+        lock.readLock().lock();
+        try {
+            long size = 16;
+            List<byte[]> encodedTerms = new ArrayList<>(postings.size());
+            List<Postings> termPostings = new ArrayList<>(postings.size());
+            for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+                byte[] term = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                encodedTerms.add(term);
+                termPostings.add(entry.getValue());
+                size += 4 + term.length + 4 + 8L * entry.getValue().size;
+            }
+
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+                buffer.putInt(FILE_MAGIC);
+                buffer.putLong(checkpoint);
+                buffer.putInt(encodedTerms.size());
+                for (int i = 0; i < encodedTerms.size(); i++) {
+                    Postings list = termPostings.get(i);
+                    buffer.putInt(encodedTerms.get(i).length);
+                    buffer.put(encodedTerms.get(i));
+                    buffer.putInt(list.size);
+                    for (int j = 0; j < list.size; j++) {
+                        buffer.putLong(list.ids[j]);
+                    }
+                }
+                buffer.force();
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the index contents with those saved in {@code file}.
+     * A truncated or corrupt file leaves the index untouched.
+     *
+     * @return the checkpoint stored with the index, or -1 if the file is missing or unreadable
+     */
+    long load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return -1;
+        }
+        Map<String, long[]> saved = new HashMap<>();
+        long checkpoint;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.remaining() < 16 || buffer.getInt() != FILE_MAGIC) {
+                return -1;
+            }
+            checkpoint = buffer.getLong();
+            int termCount = buffer.getInt();
+            for (int i = 0; i < termCount; i++) {
+                int termLength = readLength(buffer, 1);
+                if (termLength < 0) {
+                    return -1;
+                }
+                byte[] term = new byte[termLength];
+                buffer.get(term);
+                int idCount = readLength(buffer, 8);
+                if (idCount < 0) {
+                    return -1;
+                }
+                long[] ids = new long[idCount];
+                buffer.asLongBuffer().get(ids);
+                buffer.position(buffer.position() + 8 * ids.length);
+                saved.put(new String(term, StandardCharsets.UTF_8), ids);
+            }
+            if (termCount < 0 || buffer.hasRemaining()) {
+                return -1;
+            }
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            deletes.clear();
+            if (documentTerms != null) {
+                documentTerms.clear();
+            }
+            saved.forEach((term, ids) -> postingsFor(term).addAll(ids));
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return checkpoint;
+    }
+
+    // Reads a length prefix, or returns -1 if the data it announces would run past the end of the file
+    private static int readLength(ByteBuffer buffer, int elementSize) {
+        if (buffer.remaining() < 4) {
+            return -1;
+        }
+        int length = buffer.getInt();
+        if (length < 0 || (long) length * elementSize > buffer.remaining()) {
+            return -1;
+        }
+        return length;
+    }
+
+    private void removeTerms(long id) {
+        if (documentTerms == null) {
+            return;
+        }
+        String[] previous = documentTerms.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous) {
+            Postings list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term);
+                for (String variant : deleteVariants(term)) {
+                    List<String> terms = deletes.get(variant);
+                    if (terms != null) {
+                        terms.remove(term);
+                        if (terms.isEmpty()) {
+                            deletes.remove(variant);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private Postings postingsFor(String term) {
+        Postings list = postings.get(term);
+        if (list == null) {
+            list = new Postings();
+            postings.put(term, list);
+            for (String variant : deleteVariants(term)) {
+                deletes.computeIfAbsent(variant, k -> new ArrayList<>(1)).add(term);
+            }
+        }
+        return list;
+    }
+
+    private Match[] expand(String term) {
+        List<Match> result = new ArrayList<>();
+        Postings exact = postings.get(term);
+        if (exact != null) {
+            result.add(new Match(exact, 2));
+        }
+        if (term.length() >= MIN_FUZZY_LENGTH) {
+            Set<String> seen = new HashSet<>();
+            seen.add(term);
+            for (String variant : deleteVariants(term)) {
+                for (String candidate : deletes.getOrDefault(variant, List.of())) {
+                    if (seen.add(candidate) && withinOneEdit(term, candidate)) {
+                        result.add(new Match(postings.get(candidate), 1));
+                    }
+                }
+            }
+        }
+        return result.toArray(new Match[0]);
+    }
+
+    /**
+     * Walks the matching documents newest first, intersecting the query terms lazily, and stops as soon as
+     * {@code limit} documents score at least as high as any document still ahead could.
+     */
+    private List<Long> rank(List<Match[]> matches, int limit) {
+        TermCursor[] cursors = new TermCursor[matches.size()];
+        int maxScore = 0;
+        for (int i = 0; i < cursors.length; i++) {
+            cursors[i] = new TermCursor(matches.get(i));
+            maxScore += cursors[i].reachableWeight;
+        }
+        List<List<Long>> byScore = new ArrayList<>(maxScore + 1);
+        for (int i = 0; i <= maxScore; i++) {
+            byScore.add(new ArrayList<>());
+        }
+
+        while (true) {
+            int reachable = 0;
+            long target = Long.MAX_VALUE;
+            for (TermCursor cursor : cursors) {
+                if (cursor.current == TermCursor.EXHAUSTED) {
+                    return collect(byScore, maxScore, limit);
+                }
+                reachable += cursor.reachableWeight;
+                target = Math.min(target, cursor.current);
+            }
+            // Later documents are older and score at most the reachable weight, so they rank below these
+            if (countScoringAtLeast(byScore, reachable) >= limit) {
+                return collect(byScore, maxScore, limit);
+            }
+
+            int score = 0;
+            for (TermCursor cursor : cursors) {
+                cursor.seek(target);
+                if (cursor.current != target) {
+                    score = 0;
+                    break;
+                }
+                score += cursor.currentWeight();
+            }
+            if (score == 0) {
+                continue;
+            }
+            List<Long> bucket = byScore.get(score);
+            if (bucket.size() < limit) {
+                bucket.add(target);
+            }
+            for (TermCursor cursor : cursors) {
+                cursor.next();
+            }
+        }
+    }
+
+    private static int countScoringAtLeast(List<List<Long>> byScore, int score) {
+        int count = 0;
+        for (int i = Math.max(score, 1); i < byScore.size(); i++) {
+            count += byScore.get(i).size();
+        }
+        return count;
+    }
+
+    private static List<Long> collect(List<List<Long>> byScore, int maxScore, int limit) {
+        List<Long> ranked = new ArrayList<>(limit);
+        for (int score = maxScore; score > 0 && ranked.size() < limit; score--) {
+            for (Long id : byScore.get(score)) {
+                if (ranked.size() == limit) {
+                    break;
+                }
+                ranked.add(id);
+            }
+        }
+        return ranked;
+    }
+
+    private static List<String> deleteVariants(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH) {
+            return List.of();
+        }
+        List<String> variants = new ArrayList<>(term.length() + 1);
+        variants.add(term);
+        for (int i = 0; i < term.length(); i++) {
+            variants.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return variants;
+    }
+
+    // Optimal string alignment distance of at most one: insert, delete, substitute or swap neighbours
+    private static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (lengthDiff > 0) {
+            return a.substring(i + 1).equals(b.substring(i));
+        }
+        if (lengthDiff < 0) {
+            return a.substring(i).equals(b.substring(i + 1));
+        }
+        if (i == a.length()) {
+            return true;
+        }
+        if (a.substring(i + 1).equals(b.substring(i + 1))) {
+            return true;
+        }
+        return i + 1 < a.length()
+                && a.charAt(i) == b.charAt(i + 1) && a.charAt(i + 1) == b.charAt(i)
+                && a.substring(i + 2).equals(b.substring(i + 2));
+    }
+
+    /**
+     * Merges the postings of one query term's exact and fuzzy matches from the newest id down,
+     * without copying them.
+     */
+    private static final class TermCursor {
+
+        static final long EXHAUSTED = Long.MIN_VALUE;
+
+        private final Match[] matches;
+        // Index of the next unread id in each match's postings, -1 once it is used up
+        private final int[] positions;
+        long current;
+        // Best weight among the matches that still have ids left
+        int reachableWeight;
+
+        TermCursor(Match[] matches) {
+            this.matches = matches;
+            this.positions = new int[matches.length];
+            for (int i = 0; i < matches.length; i++) {
+                positions[i] = matches[i].postings.size - 1;
+            }
+            refresh();
+        }
+
+        /** Moves to the newest id not above {@code target}. */
+        void seek(long target) {
+            if (current <= target) {
+                return;
+            }
+            for (int i = 0; i < matches.length; i++) {
+                long[] ids = matches[i].postings.ids;
+                if (positions[i] >= 0 && ids[positions[i]] > target) {
+                    int index = Arrays.binarySearch(ids, 0, positions[i], target);
+                    positions[i] = index >= 0 ? index : -index - 2;
+                }
+            }
+            refresh();
+        }
+
+        /** Moves past the current id. */
+        void next() {
+            for (int i = 0; i < matches.length; i++) {
+                if (positions[i] >= 0 && matches[i].postings.ids[positions[i]] == current) {
+                    positions[i]--;
+                }
+            }
+            refresh();
+        }
+
+        int currentWeight() {
+            int weight = 0;
+            for (int i = 0; i < matches.length; i++) {
+                if (positions[i] >= 0 && matches[i].postings.ids[positions[i]] == current) {
+                    weight = Math.max(weight, matches[i].weight);
+                }
+            }
+            return weight;
+        }
+
+        private void refresh() {
+            current = EXHAUSTED;
+            reachableWeight = 0;
+            for (int i = 0; i < matches.length; i++) {
+                if (positions[i] >= 0) {
+                    current = Math.max(current, matches[i].postings.ids[positions[i]]);
+                    reachableWeight = Math.max(reachableWeight, matches[i].weight);
+                }
+            }
+        }
+    }
+
+    private record Match(Postings postings, int weight) {
+    }
+
+    /** Sorted, duplicate-free list of document ids. */
+    private static final class Postings {
+
+        private long[] ids = new long[4];
+        private int size;
+
+        void add(long id) {
+            // Ids usually arrive in increasing order, so appending is the common case
+            if (size == 0 || ids[size - 1] < id) {
+                ensureCapacity(size + 1);
+                ids[size++] = id;
+                return;
+            }
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            ensureCapacity(size + 1);
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        void addAll(long[] sortedIds) {
+            ensureCapacity(size + sortedIds.length);
+            for (long id : sortedIds) {
+                add(id);
+            }
+        }
+
+        boolean remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(capacity, ids.length * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.quizapp.quiz_platform.service;
+
+import com.quizapp.quiz_platform.model.Submission;
+import com.quizapp.quiz_platform.repository.SubmissionRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes live quiz results to recruiters over server-sent events.
+ * Each quiz being watched has one shared channel that keeps running statistics,
+ * so a new submission costs one update no matter how many recruiters are subscribed.
+ */
+@Service
+@RequiredArgsConstructor
+public class QuizResultsFeed {
+
+    private static final long EMITTER_TIMEOUT_MS = 30 * 60 * 1000L;
+
+    private final SubmissionRepository submissionRepository;
+
+    private final Map<Long, Channel> channels = new ConcurrentHashMap<>();
+
+    public SseEmitter subscribe(Long quizId) {
+        return subscribe(quizId, new SseEmitter(EMITTER_TIMEOUT_MS));
+    }
+
+    SseEmitter subscribe(Long quizId, SseEmitter emitter) {
+        Channel channel;
+        do {
+            channel = channels.computeIfAbsent(quizId, Channel::new);
+        } while (!channel.add(emitter));
+
+        Channel subscribed = channel;
+        emitter.onCompletion(() -> unsubscribe(subscribed, emitter));
+        emitter.onTimeout(() -> unsubscribe(subscribed, emitter));
+        emitter.onError(e -> unsubscribe(subscribed, emitter));
+        return emitter;
+    }
+
+    // Called once a submission has been saved; quizzes nobody is watching are skipped
+    @Async
+    public void publish(Submission submission) {
+        Channel channel = channels.get(submission.getQuiz().getId());
+        if (channel != null) {
+            channel.publish(submission);
+        }
+    }
+
+    private void unsubscribe(Channel channel, SseEmitter emitter) {
+        if (channel.remove(emitter)) {
+            channels.remove(channel.quizId, channel);
+        }
+    }
+
+    public record SubmissionView(String candidate, int score, int totalQuestions,
+                                 double percentage, LocalDateTime submissionTime) {
+    }
+
+    public record QuizResultsUpdate(SubmissionView submission, long totalSubmissions,
+                                    double averageScore, double highestScore, double lowestScore) {
+    }
+
+    private class Channel {
+
+        private final Long quizId;
+        private final List<SseEmitter> emitters = new ArrayList<>();
+        private boolean initialized;
+        private boolean closed;
+        // Submissions up to this id were counted when the statistics were loaded
+        private long lastLoadedSubmissionId;
+
+        private long count;
+        private double sum;
+        private double highest;
+        private double lowest = 100.0;
+
+        Channel(Long quizId) {
+            this.quizId = quizId;
+        }
+
+        // Returns false if the channel was closed concurrently and the caller should retry
+        synchronized boolean add(SseEmitter emitter) {
+            if (closed) {
+                return false;
+            }
+            if (!initialized) {
+                // Statistics are loaded once per channel and kept up to date from then on
+                for (Submission submission : submissionRepository.findByQuizId(quizId)) {
+                    record(submission);
+                    lastLoadedSubmissionId = Math.max(lastLoadedSubmissionId, submission.getId());
+                }
+                initialized = true;
+            }
+            emitters.add(emitter);
+            if (!send(emitter, snapshot(null))) {
+                emitter.completeWithError(new IOException("Client disconnected"));
+            }
+            return true;
+        }
+
+        // Returns true if this was the last subscriber and the channel is now closed
+        synchronized boolean remove(SseEmitter emitter) {
+            emitters.remove(emitter);
+            if (emitters.isEmpty() && !closed) {
+                closed = true;
+                return true;
+            }
+            return false;
+        }
+
+        synchronized void publish(Submission submission) {
+            // A submission saved before the statistics were loaded may still be published afterwards
+            if (!initialized || closed || submission.getId() <= lastLoadedSubmissionId) {
+                return;
+            }
+            record(submission);
+            QuizResultsUpdate update = snapshot(submission);
+            List<SseEmitter> failed = new ArrayList<>();
+            for (SseEmitter emitter : emitters) {
+                if (!send(emitter, update)) {
+                    failed.add(emitter);
+                }
+            }
+            // Completing triggers the unsubscribe callbacks, so do it after iterating
+            failed.forEach(emitter -> emitter.completeWithError(new IOException("Client disconnected")));
+        }
+
+        private void record(Submission submission) {
+            double percentage = submission.getPercentage();
+            count++;
+            sum += percentage;
+            highest = Math.max(highest, percentage);
+            lowest = Math.min(lowest, percentage);
+        }
+
+        private QuizResultsUpdate snapshot(Submission submission) {
+            SubmissionView view = submission == null ? null : new SubmissionView(
+                    submission.getCandidate().getUsername(),
+                    submission.getScore(),
+                    submission.getTotalQuestions(),
+                    submission.getPercentage(),
+                    submission.getSubmissionTime());
+            return new QuizResultsUpdate(view, count,
+                    count > 0 ? sum / count : 0.0,
+                    count > 0 ? highest : 0.0,
+                    count > 0 ? lowest : 100.0);
+        }
+
+        private boolean send(SseEmitter emitter, QuizResultsUpdate update) {
+            try {
+                emitter.send(SseEmitter.event()
+                        .name(update.submission() == null ? "snapshot" : "submission")
+                        .data(update));
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.quizapp.quiz_platform.service;
+
+import com.quizapp.quiz_platform.model.Question;
+import com.quizapp.quiz_platform.model.Quiz;
+import com.quizapp.quiz_platform.repository.QuestionRepository;
+import com.quizapp.quiz_platform.repository.QuizRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Full-text search over quiz titles/descriptions and question texts/options.
+ * Questions are only ever added, so their index is saved to a memory-mapped file and on
+ * restart only questions newer than the saved checkpoint are read from the database.
+ * The checkpoint is the highest id read in order from the database, never an id indexed
+ * through the controller, so questions created on other instances are not skipped.
+ * Quizzes can be edited and are few, so their index is rebuilt from the database on startup.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuizSearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final QuizRepository quizRepository;
+    private final QuestionRepository questionRepository;
+
+    private final InvertedIndex quizIndex = new InvertedIndex(true);
+    private final InvertedIndex questionIndex = new InvertedIndex(false);
+    private final AtomicLong questionCheckpoint = new AtomicLong();
+    private volatile boolean built;
+
+    @Value("${quiz.search.index-file:./search-index.dat}")
+    private Path indexFile;
+
+    public record SearchResults(List<Quiz> quizzes, List<Question> questions) {
+    }
+
+    // Built in the background so the index never delays startup
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        long checkpoint = 0;
+        try {
+            checkpoint = Math.max(questionIndex.load(indexFile), 0);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not load search index from {}, rebuilding", indexFile, e);
+        }
+
+        List<Question> batch;
+        do {
+            batch = questionRepository.findByIdGreaterThanOrderByIdAsc(
+                    checkpoint, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            batch.forEach(this::indexQuestion);
+            if (!batch.isEmpty()) {
+                checkpoint = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == REBUILD_BATCH_SIZE);
+        questionCheckpoint.set(checkpoint);
+
+        quizRepository.findAll().forEach(this::indexQuiz);
+        built = true;
+        saveIndex();
+    }
+
+    @PreDestroy
+    public void saveIndex() {
+        // A partly built index would save a checkpoint past questions it never read
+        if (!built) {
+            return;
+        }
+        try {
+            questionIndex.save(indexFile, questionCheckpoint.get());
+        } catch (IOException e) {
+            log.warn("Could not save search index to {}", indexFile, e);
+        }
+    }
+
+    public void indexQuiz(Quiz quiz) {
+        quizIndex.add(quiz.getId(), String.join(" ",
+                Objects.toString(quiz.getTitle(), ""),
+                Objects.toString(quiz.getDescription(), "")));
+    }
+
+    public void indexQuestion(Question question) {
+        questionIndex.add(question.getId(), String.join(" ",
+                Objects.toString(question.getQuestionText(), ""),
+                Objects.toString(question.getOptionA(), ""),
+                Objects.toString(question.getOptionB(), ""),
+                Objects.toString(question.getOptionC(), ""),
+                Objects.toString(question.getOptionD(), "")));
+    }
+
+    public SearchResults search(String query, int limit) {
+        List<Long> quizIds = quizIndex.search(query, limit);
+        List<Long> questionIds = questionIndex.search(query, limit);
+        return new SearchResults(
+                inRankOrder(quizIds, quizRepository.findAllById(quizIds), Quiz::getId),
+                inRankOrder(questionIds, questionRepository.findAllById(questionIds), Question::getId));
+    }
+
+    private static <T> List<T> inRankOrder(List<Long> ids, List<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = entities.stream().collect(Collectors.toMap(idOf, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+}
@@ -0,0 +1,36 @@
+-- Schema used by the prod profile (ddl-auto=validate); must match the JPA entities
+CREATE TABLE IF NOT EXISTS users (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    username VARCHAR(255) UNIQUE,
+    password VARCHAR(255),
+    role VARCHAR(255)
+);
+
+CREATE TABLE IF NOT EXISTS quiz (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    title VARCHAR(255),
+    description VARCHAR(255),
+    duration_in_minutes INTEGER NOT NULL,
+    recruiter_id BIGINT REFERENCES users (id)
+);
+
+CREATE TABLE IF NOT EXISTS question (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    question_text VARCHAR(255),
+    optiona VARCHAR(255),
+    optionb VARCHAR(255),
+    optionc VARCHAR(255),
+    optiond VARCHAR(255),
+    correct_option VARCHAR(255),
+    quiz_id BIGINT REFERENCES quiz (id)
+);
+
+CREATE TABLE IF NOT EXISTS submission (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    score INTEGER NOT NULL,
+    total_questions INTEGER NOT NULL,
+    percentage DOUBLE PRECISION NOT NULL,
+    submission_time TIMESTAMP(6),
+    candidate_id BIGINT REFERENCES users (id),
+    quiz_id BIGINT REFERENCES quiz (id)
+);
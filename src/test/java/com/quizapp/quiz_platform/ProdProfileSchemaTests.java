@@ -0,0 +1,70 @@
+package com.quizapp.quiz_platform;
+
+import com.quizapp.quiz_platform.model.Question;
+import com.quizapp.quiz_platform.model.Quiz;
+import com.quizapp.quiz_platform.model.Submission;
+import com.quizapp.quiz_platform.model.User;
+import com.quizapp.quiz_platform.repository.QuestionRepository;
+import com.quizapp.quiz_platform.repository.QuizRepository;
+import com.quizapp.quiz_platform.repository.SubmissionRepository;
+import com.quizapp.quiz_platform.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Starts the prod profile, where Hibernate only validates the schema from db/schema.sql,
+ * so an entity change without a matching schema change fails here rather than in production.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:prodschema;DB_CLOSE_DELAY=-1",
+		"quiz.seed.enabled=false",
+		"quiz.search.index-file=${java.io.tmpdir}/quiz-prod-schema-test-index.dat"
+})
+@ActiveProfiles("prod")
+class ProdProfileSchemaTests {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private QuizRepository quizRepository;
+
+	@Autowired
+	private QuestionRepository questionRepository;
+
+	@Autowired
+	private SubmissionRepository submissionRepository;
+
+	@Test
+	void entitiesRoundTripThroughValidatedSchema() {
+		User recruiter = new User(null, "schema-recruiter", "secret", "RECRUITER");
+		User candidate = new User(null, "schema-candidate", "secret", "CANDIDATE");
+		userRepository.save(recruiter);
+		userRepository.save(candidate);
+
+		Quiz quiz = new Quiz();
+		quiz.setTitle("Schema check");
+		quiz.setDescription("Validates the prod schema");
+		quiz.setDurationInMinutes(10);
+		quiz.setRecruiter(recruiter);
+		quizRepository.save(quiz);
+
+		Question question = new Question(null, "Does it validate?", "Yes", "No", "Maybe", "Never", "A", quiz);
+		questionRepository.save(question);
+
+		Submission submission = new Submission(null, 1, 1, 100.0, LocalDateTime.now(), candidate, quiz);
+		submissionRepository.save(submission);
+
+		assertThat(questionRepository.findByQuizId(quiz.getId()))
+				.extracting(Question::getOptionD).containsExactly("Never");
+		assertThat(submissionRepository.findByQuizId(quiz.getId()))
+				.extracting(Submission::getPercentage).containsExactly(100.0);
+	}
+
+}
@@ -0,0 +1,166 @@
+package com.quizapp.quiz_platform.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InvertedIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void savedIndexLoadsWithSameResults() throws IOException {
+        InvertedIndex index = new InvertedIndex(false);
+        index.add(1, "Java generics and wildcards");
+        index.add(2, "Spring dependency injection");
+        index.add(3, "Java streams");
+        Path file = tempDir.resolve("index.dat");
+        index.save(file, 42);
+
+        InvertedIndex loaded = new InvertedIndex(false);
+        assertThat(loaded.load(file)).isEqualTo(42);
+        assertThat(loaded.search("java", 10)).containsExactly(3L, 1L);
+        assertThat(loaded.search("injction", 10)).containsExactly(2L);
+        assertThat(loaded.size()).isEqualTo(index.size());
+    }
+
+    @Test
+    void truncatedFileIsRejectedWithoutTouchingTheIndex() throws IOException {
+        InvertedIndex source = new InvertedIndex(false);
+        for (long id = 1; id <= 50; id++) {
+            source.add(id, "Question about topic" + id);
+        }
+        Path file = tempDir.resolve("index.dat");
+        source.save(file, 50);
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length / 2));
+
+        InvertedIndex index = new InvertedIndex(false);
+        index.add(7, "Kubernetes pods");
+        assertThat(index.load(file)).isEqualTo(-1);
+        assertThat(index.search("kubernetes", 10)).containsExactly(7L);
+        assertThat(index.search("question", 10)).isEmpty();
+    }
+
+    @Test
+    void corruptOrMissingFileIsRejected() throws IOException {
+        Path corrupt = tempDir.resolve("corrupt.dat");
+        Files.write(corrupt, new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17});
+
+        InvertedIndex index = new InvertedIndex(false);
+        assertThat(index.load(corrupt)).isEqualTo(-1);
+        assertThat(index.load(tempDir.resolve("missing.dat"))).isEqualTo(-1);
+    }
+
+    @Test
+    void matchesTermsWithinOneEdit() {
+        InvertedIndex index = new InvertedIndex(false);
+        index.add(1, "Java generics");
+
+        assertThat(index.search("genetics", 10)).as("substitution").containsExactly(1L);
+        assertThat(index.search("gneerics", 10)).as("transposition").containsExactly(1L);
+        assertThat(index.search("genericss", 10)).as("insertion").containsExactly(1L);
+        assertThat(index.search("generis", 10)).as("deletion").containsExactly(1L);
+        assertThat(index.search("xenerixs", 10)).as("two edits").isEmpty();
+        assertThat(index.search("jav", 10)).as("short terms match exactly only").isEmpty();
+    }
+
+    @Test
+    void requiresEveryQueryTerm() {
+        InvertedIndex index = new InvertedIndex(false);
+        index.add(1, "Java generics");
+        index.add(2, "Spring boot");
+
+        assertThat(index.search("java boot", 10)).isEmpty();
+        assertThat(index.search("the java", 10)).as("stop words are ignored").containsExactly(1L);
+    }
+
+    @Test
+    void lowercasingIgnoresTheDefaultLocale() {
+        Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr-TR"));
+        try {
+            assertThat(InvertedIndex.tokenize("JAVA QUIZ")).containsExactly("java", "quiz");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void reindexedDocumentStopsMatchingOldTerms() {
+        InvertedIndex index = new InvertedIndex(true);
+        index.add(1, "Java basics");
+        index.add(1, "Spring fundamentals");
+
+        assertThat(index.search("java", 10)).isEmpty();
+        assertThat(index.search("javaa", 10)).as("fuzzy lookups drop removed terms too").isEmpty();
+        assertThat(index.search("spring", 10)).containsExactly(1L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void ranksExactBeforeFuzzyThenNewestFirst() {
+        InvertedIndex index = new InvertedIndex(false);
+        index.add(1, "Spring boot");
+        index.add(2, "Sprint planning");
+        index.add(3, "Spring security");
+        index.add(4, "Sprint review");
+
+        assertThat(index.search("spring", 10)).containsExactly(3L, 1L, 4L, 2L);
+        assertThat(index.search("spring", 1)).containsExactly(3L);
+    }
+
+    @Test
+    void searchesAMillionDocumentsInSingleDigitMilliseconds() {
+        InvertedIndex index = new InvertedIndex(false);
+        for (long id = 1; id <= 1_000_000; id++) {
+            StringBuilder text = new StringBuilder("Questions");
+            if (id % 1000 == 0) {
+                text.append(" question");
+            }
+            if (id % 2 == 0) {
+                text.append(" database");
+            }
+            if (id % 3 == 0) {
+                text.append(" security");
+            }
+            if (id % 5 == 0) {
+                text.append(" spring");
+            }
+            index.add(id, text.toString());
+        }
+
+        // A rare exact term whose fuzzy neighbour is in every document
+        assertThat(index.search("question", 10)).containsExactlyElementsOf(newest(1000, 10));
+        assertThat(index.search("sprng", 10)).as("typo").containsExactlyElementsOf(newest(5, 10));
+        assertThat(index.search("databse securty", 10)).as("typos").containsExactlyElementsOf(newest(6, 10));
+        assertThat(index.search("question securty", 10)).containsExactlyElementsOf(newest(3000, 10));
+
+        for (String query : List.of("question", "questons", "sprng", "databse securty", "question securty")) {
+            for (int i = 0; i < 100; i++) {
+                index.search(query, 20);
+            }
+            long start = System.nanoTime();
+            for (int i = 0; i < 100; i++) {
+                index.search(query, 20);
+            }
+            long averageMillis = (System.nanoTime() - start) / 100 / 1_000_000;
+            assertThat(averageMillis).as(query).isLessThan(10);
+        }
+    }
+
+    // The newest count ids up to a million that are multiples of step
+    private static List<Long> newest(long step, int count) {
+        return LongStream.iterate(1_000_000 / step * step, id -> id - step).limit(count).boxed().toList();
+    }
+}
@@ -0,0 +1,234 @@
+package com.quizapp.quiz_platform.service;
+
+import com.quizapp.quiz_platform.model.Quiz;
+import com.quizapp.quiz_platform.model.Submission;
+import com.quizapp.quiz_platform.model.User;
+import com.quizapp.quiz_platform.repository.SubmissionRepository;
+import com.quizapp.quiz_platform.service.QuizResultsFeed.QuizResultsUpdate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuizResultsFeedTest {
+
+    private static final Long QUIZ_ID = 1L;
+
+    private final List<Submission> database = new CopyOnWriteArrayList<>();
+    private SubmissionRepository submissionRepository;
+    private QuizResultsFeed feed;
+
+    @BeforeEach
+    void setUp() {
+        submissionRepository = mock(SubmissionRepository.class);
+        when(submissionRepository.findByQuizId(QUIZ_ID)).thenAnswer(invocation -> new ArrayList<>(database));
+        feed = new QuizResultsFeed(submissionRepository);
+    }
+
+    @Test
+    void manySubscribersShareOneLoadAndOneUpdate() {
+        database.add(submission(1L, 50.0));
+        List<RecordingEmitter> emitters = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            RecordingEmitter emitter = new RecordingEmitter();
+            feed.subscribe(QUIZ_ID, emitter);
+            emitters.add(emitter);
+        }
+
+        feed.publish(saved(submission(2L, 70.0)));
+
+        verify(submissionRepository, times(1)).findByQuizId(QUIZ_ID);
+        QuizResultsUpdate first = emitters.get(0).last();
+        assertThat(first.totalSubmissions()).isEqualTo(2);
+        for (RecordingEmitter emitter : emitters) {
+            assertThat(emitter.updates).hasSize(2);
+            assertThat(emitter.last()).isSameAs(first);
+        }
+    }
+
+    @Test
+    void runningStatisticsMatchFullRecomputation() {
+        Random random = new Random(7);
+        for (long id = 1; id <= 10; id++) {
+            database.add(submission(id, random.nextInt(101)));
+        }
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(QUIZ_ID, emitter);
+        for (long id = 11; id <= 50; id++) {
+            feed.publish(saved(submission(id, random.nextInt(101))));
+        }
+
+        // Same computation as RecruiterQuizController.viewQuizResults
+        double average = database.stream().mapToDouble(Submission::getPercentage).average().orElse(0.0);
+        double highest = database.stream().mapToDouble(Submission::getPercentage).max().orElse(0.0);
+        double lowest = database.stream().mapToDouble(Submission::getPercentage).min().orElse(100.0);
+
+        QuizResultsUpdate last = emitter.last();
+        assertThat(emitter.updates).hasSize(41);
+        assertThat(last.totalSubmissions()).isEqualTo(50);
+        assertThat(last.averageScore()).isCloseTo(average, within(1e-9));
+        assertThat(last.highestScore()).isEqualTo(highest);
+        assertThat(last.lowestScore()).isEqualTo(lowest);
+    }
+
+    @Test
+    void submissionLoadedAtSubscribeIsNotCountedAgainWhenPublished() {
+        // Saved before the first subscriber arrived, published after
+        Submission late = saved(submission(5L, 80.0));
+        RecordingEmitter emitter = new RecordingEmitter();
+        feed.subscribe(QUIZ_ID, emitter);
+
+        feed.publish(late);
+
+        assertThat(emitter.updates).hasSize(1);
+        assertThat(emitter.last().totalSubmissions()).isEqualTo(1);
+    }
+
+    @Test
+    void lastUnsubscribeClosesTheChannel() {
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        feed.subscribe(QUIZ_ID, first);
+        feed.subscribe(QUIZ_ID, second);
+        first.complete();
+        second.complete();
+
+        feed.publish(saved(submission(1L, 90.0)));
+        assertThat(first.updates).hasSize(1);
+        assertThat(second.updates).hasSize(1);
+
+        RecordingEmitter next = new RecordingEmitter();
+        feed.subscribe(QUIZ_ID, next);
+        verify(submissionRepository, times(2)).findByQuizId(QUIZ_ID);
+        assertThat(next.last().totalSubmissions()).isEqualTo(1);
+    }
+
+    @Test
+    void subscribeRetriesWhenItsChannelClosesUnderneath() throws Exception {
+        RecordingEmitter failing = new RecordingEmitter();
+        failing.blockSubmissions = new CountDownLatch(1);
+        feed.subscribe(QUIZ_ID, failing);
+
+        // Publishing holds the channel while the only subscriber's send blocks, then fails
+        Thread publisher = new Thread(() -> feed.publish(saved(submission(1L, 60.0))));
+        publisher.start();
+        assertThat(failing.sendingSubmission.await(5, TimeUnit.SECONDS)).isTrue();
+
+        RecordingEmitter late = new RecordingEmitter();
+        Thread subscriber = new Thread(() -> feed.subscribe(QUIZ_ID, late));
+        subscriber.start();
+        awaitBlocked(subscriber);
+
+        // The failed send unsubscribes the last emitter, closing the channel the subscriber is waiting on
+        failing.blockSubmissions.countDown();
+        publisher.join(5000);
+        subscriber.join(5000);
+
+        verify(submissionRepository, times(2)).findByQuizId(QUIZ_ID);
+        assertThat(late.last().totalSubmissions()).isEqualTo(1);
+
+        feed.publish(saved(submission(2L, 40.0)));
+        assertThat(late.last().totalSubmissions()).isEqualTo(2);
+    }
+
+    private Submission saved(Submission submission) {
+        database.add(submission);
+        return submission;
+    }
+
+    private static Submission submission(Long id, double percentage) {
+        Quiz quiz = new Quiz();
+        quiz.setId(QUIZ_ID);
+        User candidate = new User();
+        candidate.setUsername("candidate" + id);
+        Submission submission = new Submission();
+        submission.setId(id);
+        submission.setQuiz(quiz);
+        submission.setCandidate(candidate);
+        submission.setPercentage(percentage);
+        submission.setScore((int) percentage / 10);
+        submission.setTotalQuestions(10);
+        submission.setSubmissionTime(LocalDateTime.now());
+        return submission;
+    }
+
+    private static void awaitBlocked(Thread thread) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (thread.getState() != Thread.State.BLOCKED) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    /** Records the updates sent to it and runs its callbacks on completion, like a real emitter. */
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<QuizResultsUpdate> updates = new CopyOnWriteArrayList<>();
+        final CountDownLatch sendingSubmission = new CountDownLatch(1);
+        volatile CountDownLatch blockSubmissions;
+        private final List<Runnable> completionCallbacks = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            QuizResultsUpdate update = builder.build().stream()
+                    .map(DataWithMediaType::getData)
+                    .filter(QuizResultsUpdate.class::isInstance)
+                    .map(QuizResultsUpdate.class::cast)
+                    .findFirst()
+                    .orElseThrow();
+            if (update.submission() != null && blockSubmissions != null) {
+                sendingSubmission.countDown();
+                try {
+                    blockSubmissions.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("Broken pipe");
+            }
+            updates.add(update);
+        }
+
+        QuizResultsUpdate last() {
+            return updates.get(updates.size() - 1);
+        }
+
+        @Override
+        public void onCompletion(Runnable callback) {
+            completionCallbacks.add(callback);
+        }
+
+        @Override
+        public void onTimeout(Runnable callback) {
+        }
+
+        @Override
+        public void onError(Consumer<Throwable> callback) {
+        }
+
+        @Override
+        public void complete() {
+            completionCallbacks.forEach(Runnable::run);
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            complete();
+        }
+    }
+}
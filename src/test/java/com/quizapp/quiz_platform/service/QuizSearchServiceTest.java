@@ -0,0 +1,119 @@
+package com.quizapp.quiz_platform.service;
+
+import com.quizapp.quiz_platform.model.Question;
+import com.quizapp.quiz_platform.model.Quiz;
+import com.quizapp.quiz_platform.repository.QuestionRepository;
+import com.quizapp.quiz_platform.repository.QuizRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class QuizSearchServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final List<Question> database = new ArrayList<>();
+    private QuestionRepository questionRepository;
+    private QuizRepository quizRepository;
+
+    @BeforeEach
+    void setUp() {
+        questionRepository = mock(QuestionRepository.class);
+        quizRepository = mock(QuizRepository.class);
+        when(quizRepository.findAll()).thenReturn(List.of());
+        when(questionRepository.findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> {
+                    long after = invocation.getArgument(0);
+                    Pageable page = invocation.getArgument(1);
+                    return database.stream()
+                            .filter(q -> q.getId() > after)
+                            .limit(page.getPageSize())
+                            .toList();
+                });
+        when(questionRepository.findAllById(any())).thenAnswer(invocation -> {
+            Collection<Long> ids = invocation.getArgument(0);
+            return database.stream().filter(q -> ids.contains(q.getId())).toList();
+        });
+    }
+
+    @Test
+    void restartCatchesUpOnQuestionsCreatedElsewhere() {
+        database.add(question(1L, "Java generics"));
+        database.add(question(2L, "Spring beans"));
+        QuizSearchService first = service();
+        first.buildIndex();
+
+        // Another instance creates question 3 while this one creates question 4 through the controller
+        database.add(question(3L, "Hibernate caching"));
+        Question local = question(4L, "Docker layers");
+        database.add(local);
+        first.indexQuestion(local);
+        first.saveIndex();
+
+        QuizSearchService restarted = service();
+        restarted.buildIndex();
+
+        verify(questionRepository).findByIdGreaterThanOrderByIdAsc(eq(2L), any(Pageable.class));
+        assertThat(restarted.search("hibernate", 10).questions()).extracting(Question::getId).containsExactly(3L);
+        assertThat(restarted.search("docker", 10).questions()).extracting(Question::getId).containsExactly(4L);
+    }
+
+    @Test
+    void catchUpReadsEveryBatch() {
+        for (long id = 1; id <= 2500; id++) {
+            database.add(question(id, "Question number q" + id));
+        }
+        QuizSearchService service = service();
+        service.buildIndex();
+
+        // Exact match ranks ahead of one-edit neighbours such as q250
+        assertThat(service.search("q2500", 10).questions().get(0).getId()).isEqualTo(2500L);
+        verify(questionRepository).findByIdGreaterThanOrderByIdAsc(eq(2000L), any(Pageable.class));
+    }
+
+    @Test
+    void indexIsNotSavedBeforeBuildCompletes() {
+        QuizSearchService service = service();
+        service.indexQuestion(question(7L, "Kotlin coroutines"));
+        service.saveIndex();
+
+        assertThat(tempDir.resolve("index.dat")).doesNotExist();
+        verify(questionRepository, never()).findByIdGreaterThanOrderByIdAsc(anyLong(), any(Pageable.class));
+    }
+
+    private QuizSearchService service() {
+        QuizSearchService service = new QuizSearchService(quizRepository, questionRepository);
+        ReflectionTestUtils.setField(service, "indexFile", tempDir.resolve("index.dat"));
+        return service;
+    }
+
+    private static Question question(Long id, String text) {
+        Quiz quiz = new Quiz();
+        quiz.setId(1L);
+        Question question = new Question();
+        question.setId(id);
+        question.setQuiz(quiz);
+        question.setQuestionText(text);
+        question.setOptionA("yes");
+        question.setOptionB("no");
+        question.setCorrectOption("A");
+        return question;
+    }
+}
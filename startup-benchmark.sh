@@ -0,0 +1,83 @@
+#!/bin/bash
+
+# Quiz Platform Startup Benchmark
+# Measures time-to-first-request for:
+#   baseline  - optional: BASELINE_JAR, a jar built before the fast-startup work, which
+#               still seeds synchronously (BCrypt included) before serving requests
+#   default   - plain jar with the default profile (ddl update, SQL logging); seeding now
+#               runs in the background in every profile, so this row does not include it
+#   prod      - plain jar with the prod profile (schema validate, quiet logging)
+#   prod-aot  - extracted jar with the prod profile, Spring AOT and the CDS archive
+# All runs use the JVM's default class sharing and a fresh in-memory database, with seeding on.
+# Run ./gradlew cdsArchive first. For the baseline, build that jar from an older checkout, e.g.
+#   git worktree add ../quiz-baseline <commit> && (cd ../quiz-baseline && ./gradlew bootJar)
+#
+# Usage: [BASELINE_JAR=path/to/old.jar] ./startup-benchmark.sh [RUNS]
+
+set -e  # Exit on any error
+
+RUNS=${1:-5}
+PORT=${PORT:-18081}
+JAR_NAME="quiz-platform-0.0.1-SNAPSHOT.jar"
+BOOT_JAR="$(pwd)/build/libs/$JAR_NAME"
+CDS_DIR="$(pwd)/build/cds"
+
+if [ ! -f "$BOOT_JAR" ] || [ ! -f "$CDS_DIR/application.jsa" ]; then
+    echo "Boot jar or CDS archive not found. Run ./gradlew cdsArchive first."
+    exit 1
+fi
+
+if [ -n "$BASELINE_JAR" ]; then
+    if [ ! -f "$BASELINE_JAR" ]; then
+        echo "Baseline jar not found: $BASELINE_JAR"
+        exit 1
+    fi
+    BASELINE_JAR=$(cd "$(dirname "$BASELINE_JAR")" && pwd)/$(basename "$BASELINE_JAR")
+fi
+
+# Start the app in directory $1 with the remaining JVM arguments, wait for the first
+# successful request and print elapsed milliseconds. Runs in a command substitution, so
+# callers must check the status themselves: set -e does not stop on a failed launch.
+time_to_first_request() {
+    local dir=$1
+    shift
+    local start end pid
+    rm -f "$WORK_DIR/search-index.dat"
+    start=$(date +%s%N)
+    (cd "$dir" && exec java \
+        -Dspring.datasource.url=jdbc:h2:mem:bench \
+        -Dquiz.search.index-file="$WORK_DIR/search-index.dat" \
+        -Dserver.port="$PORT" "$@") > /dev/null 2>&1 &
+    pid=$!
+
+    until curl -s -o /dev/null -f "http://localhost:$PORT/login"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited before serving a request" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo $(( (end - start) / 1000000 ))
+}
+
+WORK_DIR=$(mktemp -d)
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+echo "mode,run,time_to_first_request_ms"
+for i in $(seq 1 "$RUNS"); do
+    if [ -n "$BASELINE_JAR" ]; then
+        t=$(time_to_first_request "$WORK_DIR" -jar "$BASELINE_JAR") || exit 1
+        echo "baseline,$i,$t"
+    fi
+    t=$(time_to_first_request "$WORK_DIR" -jar "$BOOT_JAR") || exit 1
+    echo "default,$i,$t"
+    t=$(time_to_first_request "$WORK_DIR" -Dspring.profiles.active=prod -jar "$BOOT_JAR") || exit 1
+    echo "prod,$i,$t"
+    t=$(time_to_first_request "$CDS_DIR" -XX:SharedArchiveFile=application.jsa \
+        -Dspring.aot.enabled=true -Dspring.profiles.active=prod -jar "$JAR_NAME") || exit 1
+    echo "prod-aot,$i,$t"
+done